@@ -17,6 +17,15 @@ import java.lang.annotation.Target;
  * <p>
  * Assistant create output binding attribute which is used to create a assistant.
  * </p>
+ * <p>
+ * The output value is either a single {@link AssistantCreateRequest} or a
+ * {@code List<AssistantCreateRequest>} to create many assistants at once. Each
+ * request in a list is processed in turn, exactly as a single request would be.
+ * Creating an assistant whose ID already exists first deletes all of its existing
+ * messages and state, then writes the new assistant. Re-running a list therefore
+ * resets the history of every chat in it, including chats users have already
+ * started.
+ * </p>
  * 
  * @since 1.0.0
  */
@@ -6,6 +6,14 @@
 
 package com.microsoft.azure.functions.openai.annotation.assistant;
 
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * <p>
  * Chat Message Entity which contains the content of the message, the role of the chat agent, and the name of the calling function if applicable.
@@ -16,6 +24,7 @@ public class AssistantMessage {
     private String content;
     private String role;
     private String toolCalls;
+    private transient List<AssistantToolCall> toolCallList;
 
     /**
      * Initializes a new instance of the AssistantMessage class.
@@ -82,5 +91,34 @@ public class AssistantMessage {
      */
     public void setToolCalls(String toolCalls) {
         this.toolCalls = toolCalls;
+        this.toolCallList = null;
+    }
+
+    /**
+     * Gets the toolCalls of the calling function as structured tool calls.
+     * The JSON returned by {@link #getToolCalls()} is parsed on first access and the
+     * result is reused afterwards. This is not a bean property, so the parsed list is
+     * not included when the message is serialized.
+     * 
+     * @return The tool calls, or an empty list if the message has no tool calls.
+     */
+    public List<AssistantToolCall> toolCallList() {
+        if (this.toolCallList == null) {
+            this.toolCallList = parseToolCalls(this.toolCalls);
+        }
+        return this.toolCallList;
+    }
+
+    private static List<AssistantToolCall> parseToolCalls(String toolCalls) {
+        if (toolCalls == null || toolCalls.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        try (JsonReader reader = JsonProviders.createReader(toolCalls)) {
+            List<AssistantToolCall> result = reader.readArray(AssistantToolCall::fromJson);
+            return result == null ? Collections.emptyList() : Collections.unmodifiableList(result);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to parse the toolCalls of the assistant message.", e);
+        }
     }
 }
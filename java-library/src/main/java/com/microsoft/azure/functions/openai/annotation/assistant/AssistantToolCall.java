@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.functions.openai.annotation.assistant;
+
+import com.azure.json.JsonReader;
+import com.azure.json.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * <p>
+ * Tool call requested by the assistant, which contains the ID of the call, the name of the function to invoke and
+ * the arguments to invoke it with.
+ * </p>
+ */
+public class AssistantToolCall {
+
+    private final String id;
+    private final String functionName;
+    private final String functionArguments;
+
+    /**
+     * Initializes a new instance of the AssistantToolCall class.
+     *
+     * @param id                The ID of the tool call.
+     * @param functionName      The name of the function to invoke.
+     * @param functionArguments The arguments of the function, encoded as a JSON string.
+     */
+    public AssistantToolCall(String id, String functionName, String functionArguments) {
+        this.id = id;
+        this.functionName = functionName;
+        this.functionArguments = functionArguments;
+    }
+
+    /**
+     * Gets the ID of the tool call.
+     * 
+     * @return The ID of the tool call.
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Gets the name of the function to invoke.
+     * 
+     * @return The name of the function to invoke.
+     */
+    public String getFunctionName() {
+        return functionName;
+    }
+
+    /**
+     * Gets the arguments of the function, encoded as a JSON string.
+     * 
+     * @return The arguments of the function.
+     */
+    public String getFunctionArguments() {
+        return functionArguments;
+    }
+
+    /**
+     * Reads a tool call from a JSON object in the format stored in chat state.
+     *
+     * @param jsonReader The reader positioned at the tool call object.
+     * @return The tool call that was read.
+     * @throws IOException If the tool call could not be read.
+     */
+    static AssistantToolCall fromJson(JsonReader jsonReader) throws IOException {
+        return jsonReader.readObject(reader -> {
+            String id = null;
+            String functionName = null;
+            String functionArguments = null;
+            while (reader.nextToken() != JsonToken.END_OBJECT) {
+                String fieldName = reader.getFieldName();
+                reader.nextToken();
+                if ("id".equals(fieldName)) {
+                    id = reader.getString();
+                } else if ("functionName".equals(fieldName)) {
+                    functionName = reader.getString();
+                } else if ("functionArguments".equals(fieldName)) {
+                    functionArguments = reader.getString();
+                } else {
+                    reader.skipChildren();
+                }
+            }
+            return new AssistantToolCall(id, functionName, functionArguments);
+        });
+    }
+}
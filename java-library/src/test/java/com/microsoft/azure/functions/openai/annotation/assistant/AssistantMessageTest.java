@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.functions.openai.annotation.assistant;
+
+import org.junit.jupiter.api.Test;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AssistantMessageTest {
+
+    // Format written by ChatMessageTableEntity.ToolCallsString in the extension.
+    private static final String TOOL_CALLS = "[{\"id\":\"call_1\",\"functionName\":\"AddTodo\","
+            + "\"functionArguments\":\"{\\\"taskDescription\\\":\\\"Buy milk\\\"}\",\"kind\":\"Function\"},"
+            + "{\"id\":\"call_2\",\"functionName\":\"GetTodos\",\"functionArguments\":\"{}\",\"kind\":\"Function\"}]";
+
+    @Test
+    public void toolCallListParsesExtensionFormat() {
+        AssistantMessage message = new AssistantMessage("", "assistant", TOOL_CALLS);
+
+        List<AssistantToolCall> toolCalls = message.toolCallList();
+
+        assertEquals(2, toolCalls.size());
+        assertEquals("call_1", toolCalls.get(0).getId());
+        assertEquals("AddTodo", toolCalls.get(0).getFunctionName());
+        assertEquals("{\"taskDescription\":\"Buy milk\"}", toolCalls.get(0).getFunctionArguments());
+        assertEquals("call_2", toolCalls.get(1).getId());
+        assertEquals("GetTodos", toolCalls.get(1).getFunctionName());
+        assertEquals("{}", toolCalls.get(1).getFunctionArguments());
+    }
+
+    @Test
+    public void toolCallListIsParsedOnce() {
+        AssistantMessage message = new AssistantMessage("", "assistant", TOOL_CALLS);
+
+        assertSame(message.toolCallList(), message.toolCallList());
+    }
+
+    @Test
+    public void toolCallListIsEmptyWithoutToolCalls() {
+        assertTrue(new AssistantMessage("Hello", "assistant", null).toolCallList().isEmpty());
+        assertTrue(new AssistantMessage("Hello", "assistant", "").toolCallList().isEmpty());
+    }
+
+    @Test
+    public void setToolCallsResetsToolCallList() {
+        AssistantMessage message = new AssistantMessage("", "assistant", TOOL_CALLS);
+        assertEquals(2, message.toolCallList().size());
+
+        message.setToolCalls("[{\"id\":\"call_3\",\"functionName\":\"GetWeather\","
+                + "\"functionArguments\":\"{}\",\"kind\":\"Function\"}]");
+
+        List<AssistantToolCall> toolCalls = message.toolCallList();
+        assertEquals(1, toolCalls.size());
+        assertEquals("call_3", toolCalls.get(0).getId());
+        assertEquals("GetWeather", toolCalls.get(0).getFunctionName());
+    }
+
+    @Test
+    public void toolCallListRejectsMalformedToolCalls() {
+        AssistantMessage message = new AssistantMessage("", "assistant", "not json");
+
+        assertThrows(UncheckedIOException.class, message::toolCallList);
+    }
+
+    @Test
+    public void toolCallListIsNotABeanProperty() throws IntrospectionException {
+        for (PropertyDescriptor property : Introspector.getBeanInfo(AssistantMessage.class).getPropertyDescriptors()) {
+            assertNotEquals("toolCallList", property.getName());
+        }
+    }
+}